@@ -0,0 +1,49 @@
+#!/usr/bin/env bash
+# Trains the AppCDS archive for the fast-startup build. Starts the application with
+# -XX:ArchiveClassesAtExit, waits until READY_PATH answers and sends one request to
+# APP_PATH, so server start-up and request handling are archived as well, then stops
+# it with SIGTERM, which writes the archive to application.jsa.
+# Run from the directory holding the -cds.jar; extra arguments are passed to the JVM.
+set -euo pipefail
+
+JAVA="${JAVA_HOME:+$JAVA_HOME/bin/}java"
+JAR="hearthy-foundation-1.0.0-cds.jar"
+PORT="${CDS_TRAINING_PORT:-18081}"
+READY_PATH="${READY_PATH:-/actuator/info}"
+APP_PATH="${APP_PATH:-/volunteer-registration}"
+TIMEOUT_SECONDS="${TIMEOUT_SECONDS:-120}"
+TRAINING_ARCHIVE="application.jsa.$$.tmp"
+
+"$JAVA" -XX:ArchiveClassesAtExit="$TRAINING_ARCHIVE" \
+    -Dserver.port="$PORT" \
+    -Dspring.aot.enabled=true \
+    -Dspring.profiles.active=azure,fast-startup \
+    -Dspring.main.lazy-initialization=false \
+    "$@" -jar "$JAR" &
+pid=$!
+
+trained=false
+deadline=$(( $(date +%s) + TIMEOUT_SECONDS ))
+while (( $(date +%s) < deadline )); do
+    if curl -sf -o /dev/null "http://localhost:${PORT}${READY_PATH}"; then
+        if curl -sf -o /dev/null "http://localhost:${PORT}${APP_PATH}"; then
+            trained=true
+        fi
+        break
+    fi
+    if ! kill -0 "$pid" 2>/dev/null; then
+        break
+    fi
+    sleep 0.1
+done
+
+kill -TERM "$pid" 2>/dev/null || true
+wait "$pid" 2>/dev/null || true
+
+if [[ "$trained" == true && -s "$TRAINING_ARCHIVE" ]]; then
+    mv -f "$TRAINING_ARCHIVE" application.jsa
+else
+    rm -f "$TRAINING_ARCHIVE"
+    echo "AppCDS training did not complete" >&2
+    exit 1
+fi
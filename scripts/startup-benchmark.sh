@@ -0,0 +1,99 @@
+#!/usr/bin/env bash
+# Measures startup time and time-to-first-request for the regular jar and the
+# fast-startup (AOT + AppCDS + lazy init) build. Run after: mvn -Pfast-startup package
+# Both run with the azure profile. Readiness is the first successful READY_PATH
+# response, which does not need a database (AOT fixes the health indicators at build
+# time, so /actuator/health fails without one); the first request is the first
+# successful APP_PATH response after that.
+# The default APP_PATH renders a page through the application's controllers without
+# a database query; set APP_PATH=/api/opportunities when a database is reachable.
+# Results are appended to target/startup-benchmark.csv.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+RUNS="${RUNS:-3}"
+PORT="${PORT:-18080}"
+READY_PATH="${READY_PATH:-/actuator/info}"
+APP_PATH="${APP_PATH:-/volunteer-registration}"
+TIMEOUT_SECONDS="${TIMEOUT_SECONDS:-120}"
+JAR_NAME="hearthy-foundation-1.0.0"
+RESULTS="target/startup-benchmark.csv"
+COMMIT="$(git rev-parse --short HEAD 2>/dev/null || echo unknown)"
+
+export VITE_SUPABASE_URL="${VITE_SUPABASE_URL:-http://localhost}"
+export VITE_SUPABASE_ANON_KEY="${VITE_SUPABASE_ANON_KEY:-benchmark}"
+export SUPABASE_DATABASE_URL="${SUPABASE_DATABASE_URL:-jdbc:postgresql://localhost/benchmark}"
+
+COMMON_ARGS=(
+    "-Dserver.port=${PORT}"
+)
+
+now_ms() {
+    echo $(( $(date +%s%N) / 1000000 ))
+}
+
+measure() {
+    local mode="$1" workdir="$2" run="$3"
+    shift 3
+    local log
+    log="$(mktemp)"
+
+    local start
+    start="$(now_ms)"
+    (cd "$workdir" && exec java "${COMMON_ARGS[@]}" "$@") > "$log" 2>&1 &
+    local pid=$!
+
+    local ready_ms="" first_request_ms=""
+    while (( $(now_ms) - start < TIMEOUT_SECONDS * 1000 )); do
+        if curl -sf -o /dev/null "http://localhost:${PORT}${READY_PATH}"; then
+            ready_ms=$(( $(now_ms) - start ))
+            break
+        fi
+        if ! kill -0 "$pid" 2>/dev/null; then
+            break
+        fi
+        sleep 0.05
+    done
+
+    if [[ -n "$ready_ms" ]] && curl -sf -o /dev/null "http://localhost:${PORT}${APP_PATH}"; then
+        first_request_ms=$(( $(now_ms) - start ))
+    fi
+
+    kill "$pid" 2>/dev/null || true
+    wait "$pid" 2>/dev/null || true
+
+    if [[ -z "$first_request_ms" ]]; then
+        echo "[$mode] run $run did not answer successfully on ${READY_PATH} and ${APP_PATH}, log follows:" >&2
+        cat "$log" >&2
+        rm -f "$log"
+        exit 1
+    fi
+
+    local started_seconds
+    started_seconds="$(grep -oE 'Started HearthyFoundationApplication in [0-9.]+' "$log" | grep -oE '[0-9.]+$' || echo "")"
+    rm -f "$log"
+
+    echo "$(date -u +%Y-%m-%dT%H:%M:%SZ),${COMMIT},${mode},${run},${started_seconds},${ready_ms},${first_request_ms}" >> "$RESULTS"
+    echo "[$mode] run $run: started in ${started_seconds}s, ready after ${ready_ms}ms, first request after ${first_request_ms}ms"
+}
+
+if [[ ! -f "target/${JAR_NAME}.jar" || ! -f "target/cds/application.jsa" ]]; then
+    echo "Build first with: mvn -Pfast-startup package" >&2
+    exit 1
+fi
+
+if [[ ! -f "$RESULTS" ]]; then
+    echo "timestamp,commit,mode,run,started_seconds,ready_ms,first_request_ms" > "$RESULTS"
+fi
+
+for run in $(seq 1 "$RUNS"); do
+    measure baseline target "$run" \
+        -Dspring.profiles.active=azure \
+        -jar "${JAR_NAME}.jar"
+    measure fast-startup target/cds "$run" \
+        -XX:SharedArchiveFile=application.jsa \
+        -Dspring.aot.enabled=true \
+        -Dspring.profiles.active=azure,fast-startup \
+        -jar "${JAR_NAME}-cds.jar"
+done
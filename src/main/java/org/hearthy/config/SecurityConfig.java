@@ -2,6 +2,8 @@ package org.hearthy.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.web.SecurityFilterChain;
@@ -15,9 +17,12 @@ public class SecurityConfig {
         http
             .csrf(csrf -> csrf.disable())
             .authorizeHttpRequests(auth -> auth
+                .requestMatchers(HttpMethod.POST, "/api/contact/status", "/api/volunteers/registrations/status").hasRole("ADMIN")
+                .requestMatchers("/api/status-jobs/**").hasRole("ADMIN")
                 .requestMatchers("/**").permitAll()
                 .anyRequest().authenticated()
-            );
+            )
+            .httpBasic(Customizer.withDefaults());
         return http.build();
     }
 }
@@ -0,0 +1,21 @@
+package org.hearthy.config;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Controller;
+
+@Configuration
+public class StartupConfig {
+
+    /**
+     * Keeps controllers, and the services, repositories and JDBC beans they depend on, eager when the
+     * fast-startup profile enables lazy initialization, so the first request does not build them.
+     */
+    @Bean
+    public static LazyInitializationExcludeFilter eagerControllers() {
+        return (beanName, beanDefinition, beanType) ->
+                beanType != null && AnnotatedElementUtils.hasAnnotation(beanType, Controller.class);
+    }
+}
@@ -1,8 +1,12 @@
 package org.hearthy.controller.api;
 
 import lombok.RequiredArgsConstructor;
+import org.hearthy.model.BulkStatusJob;
+import org.hearthy.model.BulkStatusRequest;
 import org.hearthy.model.ContactRequest;
+import org.hearthy.model.StatusWorkflow;
 import org.hearthy.service.ContactService;
+import org.hearthy.service.StatusTransitionService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -11,9 +15,17 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class ContactApiController {
     private final ContactService contactService;
+    private final StatusTransitionService statusTransitionService;
 
     @PostMapping
     public ResponseEntity<ContactRequest> submitContactRequest(@RequestBody ContactRequest contactRequest) {
         return ResponseEntity.ok(contactService.submitContactRequest(contactRequest));
     }
+
+    @PostMapping("/status")
+    public ResponseEntity<BulkStatusJob> transitionStatus(@RequestBody BulkStatusRequest request) {
+        return statusTransitionService.startJob(StatusWorkflow.CONTACT_REQUEST, request)
+                .map(job -> ResponseEntity.accepted().body(job))
+                .orElse(ResponseEntity.badRequest().build());
+    }
 }
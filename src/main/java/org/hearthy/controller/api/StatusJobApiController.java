@@ -0,0 +1,30 @@
+package org.hearthy.controller.api;
+
+import lombok.RequiredArgsConstructor;
+import org.hearthy.model.BulkStatusJob;
+import org.hearthy.service.StatusTransitionService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/status-jobs")
+@RequiredArgsConstructor
+public class StatusJobApiController {
+    private final StatusTransitionService statusTransitionService;
+
+    @GetMapping("/{id}")
+    public ResponseEntity<BulkStatusJob> getJob(@PathVariable UUID id) {
+        return statusTransitionService.getJob(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @PostMapping("/{id}/resume")
+    public ResponseEntity<BulkStatusJob> resumeJob(@PathVariable UUID id) {
+        return statusTransitionService.resumeJob(id)
+                .map(job -> ResponseEntity.accepted().body(job))
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
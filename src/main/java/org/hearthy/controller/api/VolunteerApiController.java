@@ -1,8 +1,12 @@
 package org.hearthy.controller.api;
 
 import lombok.RequiredArgsConstructor;
+import org.hearthy.model.BulkStatusJob;
+import org.hearthy.model.BulkStatusRequest;
+import org.hearthy.model.StatusWorkflow;
 import org.hearthy.model.Volunteer;
 import org.hearthy.model.VolunteerRegistration;
+import org.hearthy.service.StatusTransitionService;
 import org.hearthy.service.VolunteerService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -15,6 +19,7 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class VolunteerApiController {
     private final VolunteerService volunteerService;
+    private final StatusTransitionService statusTransitionService;
 
     @GetMapping
     public ResponseEntity<List<Volunteer>> getAllVolunteers() {
@@ -42,4 +47,11 @@ public class VolunteerApiController {
     public ResponseEntity<List<VolunteerRegistration>> getAllRegistrations() {
         return ResponseEntity.ok(volunteerService.getAllRegistrations());
     }
+
+    @PostMapping("/registrations/status")
+    public ResponseEntity<BulkStatusJob> transitionRegistrationStatus(@RequestBody BulkStatusRequest request) {
+        return statusTransitionService.startJob(StatusWorkflow.VOLUNTEER_REGISTRATION, request)
+                .map(job -> ResponseEntity.accepted().body(job))
+                .orElse(ResponseEntity.badRequest().build());
+    }
 }
@@ -0,0 +1,37 @@
+package org.hearthy.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusJob {
+    private UUID id;
+    private String workflow;
+    private String targetStatus;
+    private String fromStatus;
+    private OffsetDateTime createdAfter;
+    private OffsetDateTime createdBefore;
+    @JsonIgnore
+    private List<UUID> ids;
+    private String state;
+    private long totalCount;
+    private long processedCount;
+    private long updatedCount;
+    private UUID lastId;
+    private String errorMessage;
+    @JsonIgnore
+    private String owner;
+    private OffsetDateTime heartbeatAt;
+    private OffsetDateTime createdAt;
+    private OffsetDateTime updatedAt;
+}
@@ -0,0 +1,23 @@
+package org.hearthy.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusRequest {
+    private String targetStatus;
+    private List<UUID> ids;
+    private String fromStatus;
+    private OffsetDateTime createdAfter;
+    private OffsetDateTime createdBefore;
+    private boolean allRows;
+}
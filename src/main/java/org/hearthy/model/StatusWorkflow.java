@@ -0,0 +1,35 @@
+package org.hearthy.model;
+
+import java.util.Map;
+import java.util.Set;
+
+public enum StatusWorkflow {
+    VOLUNTEER_REGISTRATION("volunteer_registrations", Map.of(
+            "approved", Set.of("pending"),
+            "rejected", Set.of("pending", "approved")
+    )),
+    CONTACT_REQUEST("contact_requests", Map.of(
+            "in_progress", Set.of("new"),
+            "closed", Set.of("new", "in_progress")
+    ));
+
+    private final String tableName;
+    private final Map<String, Set<String>> sourceStatusesByTarget;
+
+    StatusWorkflow(String tableName, Map<String, Set<String>> sourceStatusesByTarget) {
+        this.tableName = tableName;
+        this.sourceStatusesByTarget = sourceStatusesByTarget;
+    }
+
+    public String getTableName() {
+        return tableName;
+    }
+
+    public boolean isTarget(String status) {
+        return status != null && sourceStatusesByTarget.containsKey(status);
+    }
+
+    public Set<String> getSourceStatuses(String targetStatus) {
+        return targetStatus == null ? Set.of() : sourceStatusesByTarget.getOrDefault(targetStatus, Set.of());
+    }
+}
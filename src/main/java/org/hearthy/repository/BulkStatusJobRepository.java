@@ -0,0 +1,109 @@
+package org.hearthy.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.hearthy.config.SupabaseClient;
+import org.hearthy.model.BulkStatusJob;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class BulkStatusJobRepository {
+    private final SupabaseClient supabaseClient;
+
+    private final RowMapper<BulkStatusJob> rowMapper = new RowMapper<BulkStatusJob>() {
+        @Override
+        public BulkStatusJob mapRow(ResultSet rs, int rowNum) throws SQLException {
+            Array ids = rs.getArray("ids");
+            String lastId = rs.getString("last_id");
+            return BulkStatusJob.builder()
+                    .id(UUID.fromString(rs.getString("id")))
+                    .workflow(rs.getString("workflow"))
+                    .targetStatus(rs.getString("target_status"))
+                    .fromStatus(rs.getString("from_status"))
+                    .createdAfter(rs.getObject("created_after", java.time.OffsetDateTime.class))
+                    .createdBefore(rs.getObject("created_before", java.time.OffsetDateTime.class))
+                    .ids(ids == null ? null : Arrays.asList((UUID[]) ids.getArray()))
+                    .state(rs.getString("state"))
+                    .totalCount(rs.getLong("total_count"))
+                    .processedCount(rs.getLong("processed_count"))
+                    .updatedCount(rs.getLong("updated_count"))
+                    .lastId(lastId == null ? null : UUID.fromString(lastId))
+                    .errorMessage(rs.getString("error_message"))
+                    .owner(rs.getString("owner"))
+                    .heartbeatAt(rs.getObject("heartbeat_at", java.time.OffsetDateTime.class))
+                    .createdAt(rs.getObject("created_at", java.time.OffsetDateTime.class))
+                    .updatedAt(rs.getObject("updated_at", java.time.OffsetDateTime.class))
+                    .build();
+        }
+    };
+
+    public Optional<BulkStatusJob> findById(UUID id) {
+        String sql = "SELECT * FROM bulk_status_jobs WHERE id = ?";
+        List<BulkStatusJob> results = supabaseClient.getJdbcTemplate().query(sql, rowMapper, id);
+        return results.isEmpty() ? Optional.empty() : Optional.of(results.get(0));
+    }
+
+    public BulkStatusJob save(BulkStatusJob job) {
+        if (job.getId() == null) {
+            job.setId(UUID.randomUUID());
+            String sql = "INSERT INTO bulk_status_jobs (id, workflow, target_status, from_status, created_after, created_before, ids, state, total_count, owner, heartbeat_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, now())";
+            supabaseClient.getJdbcTemplate().update(con -> {
+                PreparedStatement ps = con.prepareStatement(sql);
+                ps.setObject(1, job.getId());
+                ps.setString(2, job.getWorkflow());
+                ps.setString(3, job.getTargetStatus());
+                ps.setString(4, job.getFromStatus());
+                ps.setObject(5, job.getCreatedAfter());
+                ps.setObject(6, job.getCreatedBefore());
+                ps.setArray(7, job.getIds() == null ? null : con.createArrayOf("uuid", job.getIds().toArray()));
+                ps.setString(8, job.getState());
+                ps.setLong(9, job.getTotalCount());
+                ps.setString(10, job.getOwner());
+                return ps;
+            });
+        }
+        return job;
+    }
+
+    /**
+     * Takes over a job that is not completed and either not running or whose owner stopped
+     * sending heartbeats. Returns false when another instance still holds the job.
+     */
+    public boolean claim(UUID id, String owner, int staleAfterSeconds) {
+        String sql = "UPDATE bulk_status_jobs SET state = 'running', owner = ?, heartbeat_at = now(), error_message = NULL, updated_at = now() "
+                + "WHERE id = ? AND state <> 'completed' "
+                + "AND (state <> 'running' OR heartbeat_at IS NULL OR heartbeat_at < now() - make_interval(secs => ?))";
+        return supabaseClient.getJdbcTemplate().update(sql, owner, id, staleAfterSeconds) == 1;
+    }
+
+    public boolean updateProgress(BulkStatusJob job) {
+        String sql = "UPDATE bulk_status_jobs SET processed_count = ?, updated_count = ?, last_id = ?, heartbeat_at = now(), updated_at = now() WHERE id = ? AND owner = ?";
+        return supabaseClient.getJdbcTemplate().update(sql,
+                job.getProcessedCount(),
+                job.getUpdatedCount(),
+                job.getLastId(),
+                job.getId(),
+                job.getOwner()
+        ) == 1;
+    }
+
+    public void updateState(BulkStatusJob job) {
+        String sql = "UPDATE bulk_status_jobs SET state = ?, error_message = ?, updated_at = now() WHERE id = ? AND owner = ?";
+        supabaseClient.getJdbcTemplate().update(sql,
+                job.getState(),
+                job.getErrorMessage(),
+                job.getId(),
+                job.getOwner()
+        );
+    }
+}
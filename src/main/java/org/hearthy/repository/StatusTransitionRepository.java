@@ -0,0 +1,100 @@
+package org.hearthy.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.hearthy.config.SupabaseClient;
+import org.hearthy.model.BulkStatusJob;
+import org.hearthy.model.StatusWorkflow;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class StatusTransitionRepository {
+    private final SupabaseClient supabaseClient;
+
+    public record ChunkResult(UUID lastId, int processedCount, int updatedCount) {
+    }
+
+    public long countByFilter(StatusWorkflow workflow, BulkStatusJob job) {
+        List<Object> params = new ArrayList<>();
+        String sql = "SELECT count(*) FROM " + workflow.getTableName() + " WHERE " + filter(workflow, job, params);
+        Long count = supabaseClient.getJdbcTemplate().queryForObject(sql, Long.class, params.toArray());
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * Moves the next {@code chunkSize} matching rows after {@code job.lastId} to the target status
+     * in a single statement. Rows whose current status may not transition are never selected,
+     * so repeating a chunk changes nothing.
+     */
+    public ChunkResult transitionByFilter(StatusWorkflow workflow, BulkStatusJob job, int chunkSize) {
+        String table = workflow.getTableName();
+        List<Object> params = new ArrayList<>();
+        String where = filter(workflow, job, params);
+        if (job.getLastId() != null) {
+            where += " AND id > ?";
+            params.add(job.getLastId());
+        }
+        params.add(chunkSize);
+        params.add(job.getTargetStatus());
+
+        String sql = "WITH batch AS (SELECT id FROM " + table + " WHERE " + where + " ORDER BY id LIMIT ? FOR UPDATE), "
+                + "updated AS (UPDATE " + table + " SET status = ? WHERE id IN (SELECT id FROM batch) RETURNING id) "
+                + "SELECT (SELECT id FROM batch ORDER BY id DESC LIMIT 1) AS last_id, "
+                + "(SELECT count(*) FROM batch) AS processed_count, "
+                + "(SELECT count(*) FROM updated) AS updated_count";
+        return supabaseClient.getJdbcTemplate().queryForObject(sql, (rs, rowNum) -> {
+            String lastId = rs.getString("last_id");
+            return new ChunkResult(
+                    lastId == null ? null : UUID.fromString(lastId),
+                    rs.getInt("processed_count"),
+                    rs.getInt("updated_count")
+            );
+        }, params.toArray());
+    }
+
+    public int transitionByIds(StatusWorkflow workflow, String targetStatus, List<UUID> ids) {
+        List<String> sourceStatuses = new ArrayList<>(workflow.getSourceStatuses(targetStatus));
+        String sql = "UPDATE " + workflow.getTableName() + " SET status = ? WHERE id = ANY(?) AND status IN ("
+                + placeholders(sourceStatuses) + ")";
+        return supabaseClient.getJdbcTemplate().update(con -> {
+            PreparedStatement ps = con.prepareStatement(sql);
+            ps.setString(1, targetStatus);
+            ps.setArray(2, con.createArrayOf("uuid", ids.toArray()));
+            for (int i = 0; i < sourceStatuses.size(); i++) {
+                ps.setString(i + 3, sourceStatuses.get(i));
+            }
+            return ps;
+        });
+    }
+
+    private String filter(StatusWorkflow workflow, BulkStatusJob job, List<Object> params) {
+        Set<String> sourceStatuses = workflow.getSourceStatuses(job.getTargetStatus());
+        StringBuilder where = new StringBuilder("status IN (").append(placeholders(sourceStatuses)).append(")");
+        params.addAll(sourceStatuses);
+        if (job.getFromStatus() != null) {
+            where.append(" AND status = ?");
+            params.add(job.getFromStatus());
+        }
+        if (job.getCreatedAfter() != null) {
+            where.append(" AND created_at >= ?");
+            params.add(job.getCreatedAfter());
+        }
+        if (job.getCreatedBefore() != null) {
+            where.append(" AND created_at < ?");
+            params.add(job.getCreatedBefore());
+        }
+        return where.toString();
+    }
+
+    private String placeholders(Collection<?> values) {
+        return String.join(", ", Collections.nCopies(values.size(), "?"));
+    }
+}
@@ -0,0 +1,162 @@
+package org.hearthy.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hearthy.model.BulkStatusJob;
+import org.hearthy.model.BulkStatusRequest;
+import org.hearthy.model.StatusWorkflow;
+import org.hearthy.repository.BulkStatusJobRepository;
+import org.hearthy.repository.StatusTransitionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StatusTransitionService {
+    private final BulkStatusJobRepository bulkStatusJobRepository;
+    private final StatusTransitionRepository statusTransitionRepository;
+    private final TransactionOperations transactionOperations;
+    private final TaskExecutor taskExecutor;
+    private final Set<UUID> runningJobs = ConcurrentHashMap.newKeySet();
+    private final String instanceId = UUID.randomUUID().toString();
+
+    @Value("${hearthy.status-jobs.chunk-size}")
+    private int chunkSize;
+
+    @Value("${hearthy.status-jobs.stale-after-seconds}")
+    private int staleAfterSeconds;
+
+    public Optional<BulkStatusJob> startJob(StatusWorkflow workflow, BulkStatusRequest request) {
+        if (request.getTargetStatus() == null
+                || !workflow.isTarget(request.getTargetStatus())
+                || (request.getIds() != null && (request.getIds().isEmpty() || request.getIds().contains(null)))
+                || (request.getIds() == null && !hasFilter(request) && !request.isAllRows())) {
+            return Optional.empty();
+        }
+
+        BulkStatusJob job = BulkStatusJob.builder()
+                .workflow(workflow.name())
+                .targetStatus(request.getTargetStatus())
+                .state("running")
+                .owner(instanceId)
+                .build();
+        if (request.getIds() != null) {
+            job.setIds(request.getIds().stream().distinct().sorted().toList());
+            job.setTotalCount(job.getIds().size());
+        } else {
+            job.setFromStatus(request.getFromStatus());
+            job.setCreatedAfter(request.getCreatedAfter());
+            job.setCreatedBefore(request.getCreatedBefore());
+            job.setTotalCount(statusTransitionRepository.countByFilter(workflow, job));
+        }
+
+        bulkStatusJobRepository.save(job);
+        submit(job);
+        return Optional.of(job);
+    }
+
+    public Optional<BulkStatusJob> getJob(UUID id) {
+        return bulkStatusJobRepository.findById(id).map(this::reportStalled);
+    }
+
+    public Optional<BulkStatusJob> resumeJob(UUID id) {
+        if (!bulkStatusJobRepository.claim(id, instanceId, staleAfterSeconds)) {
+            return getJob(id);
+        }
+        return bulkStatusJobRepository.findById(id).map(job -> {
+            submit(job);
+            return job;
+        });
+    }
+
+    private BulkStatusJob reportStalled(BulkStatusJob job) {
+        if ("running".equals(job.getState()) && (job.getHeartbeatAt() == null
+                || job.getHeartbeatAt().isBefore(OffsetDateTime.now().minusSeconds(staleAfterSeconds)))) {
+            job.setState("stalled");
+        }
+        return job;
+    }
+
+    private void recordProgress(BulkStatusJob job) {
+        if (!bulkStatusJobRepository.updateProgress(job)) {
+            throw new IllegalStateException("Bulk status job " + job.getId() + " was claimed by another instance");
+        }
+    }
+
+    private boolean hasFilter(BulkStatusRequest request) {
+        return request.getFromStatus() != null
+                || request.getCreatedAfter() != null
+                || request.getCreatedBefore() != null;
+    }
+
+    private void submit(BulkStatusJob job) {
+        if (runningJobs.add(job.getId())) {
+            taskExecutor.execute(() -> run(job));
+        }
+    }
+
+    private void run(BulkStatusJob job) {
+        try {
+            try {
+                StatusWorkflow workflow = StatusWorkflow.valueOf(job.getWorkflow());
+                if (job.getIds() != null) {
+                    runByIds(workflow, job);
+                } else {
+                    runByFilter(workflow, job);
+                }
+                job.setState("completed");
+            } catch (RuntimeException e) {
+                log.error("Bulk status job {} failed after {} rows", job.getId(), job.getProcessedCount(), e);
+                job.setState("failed");
+                job.setErrorMessage("Status update failed after " + job.getProcessedCount() + " rows, see the application log");
+            } finally {
+                bulkStatusJobRepository.updateState(job);
+            }
+        } finally {
+            runningJobs.remove(job.getId());
+        }
+    }
+
+    private void runByFilter(StatusWorkflow workflow, BulkStatusJob job) {
+        boolean more = true;
+        while (more) {
+            more = Boolean.TRUE.equals(transactionOperations.execute(tx -> {
+                StatusTransitionRepository.ChunkResult result =
+                        statusTransitionRepository.transitionByFilter(workflow, job, chunkSize);
+                if (result.processedCount() == 0) {
+                    return false;
+                }
+                job.setLastId(result.lastId());
+                job.setProcessedCount(job.getProcessedCount() + result.processedCount());
+                job.setUpdatedCount(job.getUpdatedCount() + result.updatedCount());
+                recordProgress(job);
+                return true;
+            }));
+        }
+    }
+
+    private void runByIds(StatusWorkflow workflow, BulkStatusJob job) {
+        List<UUID> ids = job.getIds();
+        int start = job.getLastId() == null ? 0 : ids.indexOf(job.getLastId()) + 1;
+        for (int from = start; from < ids.size(); from += chunkSize) {
+            List<UUID> chunk = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+            transactionOperations.executeWithoutResult(tx -> {
+                int updated = statusTransitionRepository.transitionByIds(workflow, job.getTargetStatus(), chunk);
+                job.setLastId(chunk.get(chunk.size() - 1));
+                job.setProcessedCount(job.getProcessedCount() + chunk.size());
+                job.setUpdatedCount(job.getUpdatedCount() + updated);
+                recordProgress(job);
+            });
+        }
+    }
+}
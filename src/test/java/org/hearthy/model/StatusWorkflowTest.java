@@ -0,0 +1,52 @@
+package org.hearthy.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StatusWorkflowTest {
+
+    @Test
+    void volunteerRegistrationTransitions() {
+        StatusWorkflow workflow = StatusWorkflow.VOLUNTEER_REGISTRATION;
+
+        assertThat(workflow.getTableName()).isEqualTo("volunteer_registrations");
+        assertThat(workflow.isTarget("approved")).isTrue();
+        assertThat(workflow.isTarget("rejected")).isTrue();
+        assertThat(workflow.isTarget("pending")).isFalse();
+        assertThat(workflow.getSourceStatuses("approved")).containsExactly("pending");
+        assertThat(workflow.getSourceStatuses("rejected")).containsExactlyInAnyOrder("pending", "approved");
+    }
+
+    @Test
+    void contactRequestTransitions() {
+        StatusWorkflow workflow = StatusWorkflow.CONTACT_REQUEST;
+
+        assertThat(workflow.getTableName()).isEqualTo("contact_requests");
+        assertThat(workflow.isTarget("in_progress")).isTrue();
+        assertThat(workflow.isTarget("closed")).isTrue();
+        assertThat(workflow.isTarget("new")).isFalse();
+        assertThat(workflow.getSourceStatuses("in_progress")).containsExactly("new");
+        assertThat(workflow.getSourceStatuses("closed")).containsExactlyInAnyOrder("new", "in_progress");
+    }
+
+    @Test
+    void unknownAndNullStatusesHaveNoTransitions() {
+        for (StatusWorkflow workflow : StatusWorkflow.values()) {
+            assertThat(workflow.isTarget(null)).isFalse();
+            assertThat(workflow.isTarget("archived")).isFalse();
+            assertThat(workflow.getSourceStatuses(null)).isEmpty();
+            assertThat(workflow.getSourceStatuses("archived")).isEmpty();
+        }
+    }
+
+    @Test
+    void targetIsNeverItsOwnSource() {
+        for (String target : new String[]{"approved", "rejected"}) {
+            assertThat(StatusWorkflow.VOLUNTEER_REGISTRATION.getSourceStatuses(target)).doesNotContain(target);
+        }
+        for (String target : new String[]{"in_progress", "closed"}) {
+            assertThat(StatusWorkflow.CONTACT_REQUEST.getSourceStatuses(target)).doesNotContain(target);
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package org.hearthy.service;
+
+import org.hearthy.model.BulkStatusJob;
+import org.hearthy.model.BulkStatusRequest;
+import org.hearthy.model.StatusWorkflow;
+import org.hearthy.repository.BulkStatusJobRepository;
+import org.hearthy.repository.StatusTransitionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class StatusTransitionServiceTest {
+
+    @Mock
+    private BulkStatusJobRepository bulkStatusJobRepository;
+
+    @Mock
+    private StatusTransitionRepository statusTransitionRepository;
+
+    private StatusTransitionService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new StatusTransitionService(bulkStatusJobRepository, statusTransitionRepository,
+                TransactionOperations.withoutTransaction(), Runnable::run);
+        ReflectionTestUtils.setField(service, "chunkSize", 2);
+        ReflectionTestUtils.setField(service, "staleAfterSeconds", 300);
+    }
+
+    @Test
+    void rejectsMissingTargetStatus() {
+        assertThat(service.startJob(StatusWorkflow.VOLUNTEER_REGISTRATION, new BulkStatusRequest())).isEmpty();
+        verifyNoInteractions(bulkStatusJobRepository, statusTransitionRepository);
+    }
+
+    @Test
+    void rejectsDisallowedTargetStatus() {
+        BulkStatusRequest request = BulkStatusRequest.builder().targetStatus("pending").allRows(true).build();
+
+        assertThat(service.startJob(StatusWorkflow.VOLUNTEER_REGISTRATION, request)).isEmpty();
+        verifyNoInteractions(bulkStatusJobRepository, statusTransitionRepository);
+    }
+
+    @Test
+    void rejectsEmptyIdsAndNullIds() {
+        BulkStatusRequest empty = BulkStatusRequest.builder().targetStatus("approved").ids(List.of()).build();
+        BulkStatusRequest withNull = BulkStatusRequest.builder()
+                .targetStatus("approved")
+                .ids(Arrays.asList(UUID.randomUUID(), null))
+                .build();
+
+        assertThat(service.startJob(StatusWorkflow.VOLUNTEER_REGISTRATION, empty)).isEmpty();
+        assertThat(service.startJob(StatusWorkflow.VOLUNTEER_REGISTRATION, withNull)).isEmpty();
+        verifyNoInteractions(bulkStatusJobRepository, statusTransitionRepository);
+    }
+
+    @Test
+    void rejectsUnfilteredRequestUnlessAllRowsIsSet() {
+        BulkStatusRequest unfiltered = BulkStatusRequest.builder().targetStatus("closed").build();
+        assertThat(service.startJob(StatusWorkflow.CONTACT_REQUEST, unfiltered)).isEmpty();
+        verifyNoInteractions(bulkStatusJobRepository, statusTransitionRepository);
+
+        stubSaveAndProgress();
+        UUID lastId = UUID.randomUUID();
+        when(statusTransitionRepository.countByFilter(eq(StatusWorkflow.CONTACT_REQUEST), any())).thenReturn(3L);
+        when(statusTransitionRepository.transitionByFilter(eq(StatusWorkflow.CONTACT_REQUEST), any(), eq(2)))
+                .thenReturn(new StatusTransitionRepository.ChunkResult(lastId, 2, 2))
+                .thenReturn(new StatusTransitionRepository.ChunkResult(lastId, 1, 1))
+                .thenReturn(new StatusTransitionRepository.ChunkResult(null, 0, 0));
+
+        BulkStatusRequest allRows = BulkStatusRequest.builder().targetStatus("closed").allRows(true).build();
+        BulkStatusJob job = service.startJob(StatusWorkflow.CONTACT_REQUEST, allRows).orElseThrow();
+
+        assertThat(job.getState()).isEqualTo("completed");
+        assertThat(job.getTotalCount()).isEqualTo(3);
+        assertThat(job.getProcessedCount()).isEqualTo(3);
+        assertThat(job.getUpdatedCount()).isEqualTo(3);
+        assertThat(job.getLastId()).isEqualTo(lastId);
+    }
+
+    @Test
+    void processesDistinctIdsInSortedChunks() {
+        stubSaveAndProgress();
+        when(statusTransitionRepository.transitionByIds(eq(StatusWorkflow.VOLUNTEER_REGISTRATION), eq("approved"), anyList()))
+                .thenAnswer(invocation -> invocation.<List<UUID>>getArgument(2).size());
+        List<UUID> sorted = randomSortedIds(5);
+        List<UUID> requested = new ArrayList<>(List.of(sorted.get(4), sorted.get(0), sorted.get(3), sorted.get(1), sorted.get(2)));
+        requested.add(sorted.get(0));
+
+        BulkStatusJob job = service.startJob(StatusWorkflow.VOLUNTEER_REGISTRATION,
+                BulkStatusRequest.builder().targetStatus("approved").ids(requested).build()).orElseThrow();
+
+        assertThat(chunksSent(3)).containsExactly(sorted.subList(0, 2), sorted.subList(2, 4), sorted.subList(4, 5));
+        assertThat(job.getState()).isEqualTo("completed");
+        assertThat(job.getTotalCount()).isEqualTo(5);
+        assertThat(job.getProcessedCount()).isEqualTo(5);
+        assertThat(job.getUpdatedCount()).isEqualTo(5);
+        assertThat(job.getLastId()).isEqualTo(sorted.get(4));
+    }
+
+    @Test
+    void resumeContinuesAfterLastIdAndKeepsCounts() {
+        List<UUID> ids = randomSortedIds(5);
+        BulkStatusJob job = idsJob(ids);
+        job.setLastId(ids.get(1));
+        job.setProcessedCount(2);
+        job.setUpdatedCount(1);
+        when(bulkStatusJobRepository.claim(eq(job.getId()), anyString(), eq(300))).thenReturn(true);
+        when(bulkStatusJobRepository.findById(job.getId())).thenReturn(Optional.of(job));
+        when(bulkStatusJobRepository.updateProgress(job)).thenReturn(true);
+        when(statusTransitionRepository.transitionByIds(eq(StatusWorkflow.VOLUNTEER_REGISTRATION), eq("approved"), anyList()))
+                .thenReturn(1);
+
+        assertThat(service.resumeJob(job.getId())).contains(job);
+
+        assertThat(chunksSent(2)).containsExactly(ids.subList(2, 4), ids.subList(4, 5));
+        assertThat(job.getState()).isEqualTo("completed");
+        assertThat(job.getProcessedCount()).isEqualTo(5);
+        assertThat(job.getUpdatedCount()).isEqualTo(3);
+    }
+
+    @Test
+    void resumeDoesNotRunJobHeldByAnotherInstance() {
+        BulkStatusJob job = idsJob(randomSortedIds(2));
+        job.setHeartbeatAt(OffsetDateTime.now());
+        when(bulkStatusJobRepository.claim(eq(job.getId()), anyString(), anyInt())).thenReturn(false);
+        when(bulkStatusJobRepository.findById(job.getId())).thenReturn(Optional.of(job));
+
+        assertThat(service.resumeJob(job.getId())).map(BulkStatusJob::getState).contains("running");
+        verifyNoInteractions(statusTransitionRepository);
+    }
+
+    @Test
+    void getJobReportsRunningJobWithoutRecentHeartbeatAsStalled() {
+        BulkStatusJob job = idsJob(randomSortedIds(2));
+        job.setHeartbeatAt(OffsetDateTime.now().minusHours(1));
+        when(bulkStatusJobRepository.findById(job.getId())).thenReturn(Optional.of(job));
+
+        assertThat(service.getJob(job.getId())).map(BulkStatusJob::getState).contains("stalled");
+    }
+
+    @Test
+    void failedJobStoresSummaryAndCanBeResumedWhenStateUpdateFailed() {
+        stubSaveAndProgress();
+        when(statusTransitionRepository.transitionByIds(eq(StatusWorkflow.VOLUNTEER_REGISTRATION), eq("approved"), anyList()))
+                .thenThrow(new DataAccessResourceFailureException("UPDATE volunteer_registrations SET status = ? failed"))
+                .thenReturn(2);
+        doThrow(new DataAccessResourceFailureException("connection refused"))
+                .doNothing()
+                .when(bulkStatusJobRepository).updateState(any());
+        BulkStatusRequest request = BulkStatusRequest.builder().targetStatus("approved").ids(randomSortedIds(2)).build();
+
+        assertThatThrownBy(() -> service.startJob(StatusWorkflow.VOLUNTEER_REGISTRATION, request))
+                .isInstanceOf(DataAccessResourceFailureException.class);
+        ArgumentCaptor<BulkStatusJob> saved = ArgumentCaptor.forClass(BulkStatusJob.class);
+        verify(bulkStatusJobRepository).save(saved.capture());
+        BulkStatusJob job = saved.getValue();
+        assertThat(job.getState()).isEqualTo("failed");
+        assertThat(job.getErrorMessage()).doesNotContain("UPDATE");
+
+        when(bulkStatusJobRepository.claim(eq(job.getId()), anyString(), anyInt())).thenReturn(true);
+        when(bulkStatusJobRepository.findById(job.getId())).thenReturn(Optional.of(job));
+        service.resumeJob(job.getId());
+
+        verify(statusTransitionRepository, times(2)).transitionByIds(any(), any(), anyList());
+        assertThat(job.getState()).isEqualTo("completed");
+        assertThat(job.getUpdatedCount()).isEqualTo(2);
+    }
+
+    @Test
+    void stopsWhenAnotherInstanceClaimedTheJob() {
+        stubSave();
+        when(bulkStatusJobRepository.updateProgress(any())).thenReturn(false);
+        when(statusTransitionRepository.transitionByIds(eq(StatusWorkflow.VOLUNTEER_REGISTRATION), eq("approved"), anyList()))
+                .thenReturn(2);
+        doNothing().when(bulkStatusJobRepository).updateState(any());
+
+        BulkStatusJob job = service.startJob(StatusWorkflow.VOLUNTEER_REGISTRATION,
+                BulkStatusRequest.builder().targetStatus("approved").ids(randomSortedIds(4)).build()).orElseThrow();
+
+        verify(statusTransitionRepository, times(1)).transitionByIds(any(), any(), anyList());
+        verify(bulkStatusJobRepository, never()).claim(any(), any(), anyInt());
+        assertThat(job.getState()).isEqualTo("failed");
+    }
+
+    private void stubSave() {
+        when(bulkStatusJobRepository.save(any())).thenAnswer(invocation -> {
+            BulkStatusJob job = invocation.getArgument(0);
+            job.setId(UUID.randomUUID());
+            return job;
+        });
+    }
+
+    private void stubSaveAndProgress() {
+        stubSave();
+        when(bulkStatusJobRepository.updateProgress(any())).thenReturn(true);
+    }
+
+    private List<List<UUID>> chunksSent(int expectedCalls) {
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<UUID>> chunks = ArgumentCaptor.forClass(List.class);
+        verify(statusTransitionRepository, times(expectedCalls)).transitionByIds(any(), any(), chunks.capture());
+        return chunks.getAllValues().stream().map(List::copyOf).toList();
+    }
+
+    private BulkStatusJob idsJob(List<UUID> ids) {
+        return BulkStatusJob.builder()
+                .id(UUID.randomUUID())
+                .workflow(StatusWorkflow.VOLUNTEER_REGISTRATION.name())
+                .targetStatus("approved")
+                .ids(ids)
+                .state("running")
+                .totalCount(ids.size())
+                .build();
+    }
+
+    private List<UUID> randomSortedIds(int count) {
+        return Stream.generate(UUID::randomUUID).limit(count).sorted().toList();
+    }
+}
@@ -0,0 +1,24 @@
+#!/usr/bin/env bash
+# App Service (Linux, Java SE) startup command for the fast-startup build:
+#   az webapp config set --startup-file "bash /home/site/wwwroot/startup.sh"
+# The AppCDS archive is only valid for the JVM that created it, so it is trained here with
+# cds-train.sh on the first start after a deployment and shared by every instance through wwwroot.
+set -euo pipefail
+
+cd "$(dirname "$0")"
+
+JAVA="${JAVA_HOME:+$JAVA_HOME/bin/}java"
+JAR="hearthy-foundation-1.0.0-cds.jar"
+APP_ARGS=(
+    "-Dspring.aot.enabled=true"
+    "-Dspring.profiles.active=azure,fast-startup"
+)
+
+if [[ ! -f application.jsa ]]; then
+    bash ./cds-train.sh || echo "Starting without a shared archive" >&2
+fi
+
+# JAVA_OPTS is left unquoted so the App Service setting can hold several options.
+# shellcheck disable=SC2086
+exec "$JAVA" -XX:SharedArchiveFile=application.jsa -Xshare:auto ${JAVA_OPTS:-} "${APP_ARGS[@]}" \
+    -Dserver.port="${PORT:-80}" -jar "$JAR"
@@ -0,0 +1,50 @@
+/*
+  # Create Bulk Status Jobs Table
+
+  1. New Tables
+    - `bulk_status_jobs`
+      - `id` (uuid, primary key)
+      - `workflow` (text) - VOLUNTEER_REGISTRATION or CONTACT_REQUEST
+      - `target_status` (text) - Status the selected rows are moved to
+      - `from_status` (text) - Optional filter on the current status
+      - `created_after` / `created_before` (timestamptz) - Optional filter on row creation time
+      - `ids` (uuid[]) - Explicit row ids; when set, the filters above are ignored
+      - `state` (text) - running, completed, failed
+      - `total_count` (bigint) - Rows (or ids) to process
+      - `processed_count` (bigint) - Rows (or ids) processed so far
+      - `updated_count` (bigint) - Rows whose status was changed
+      - `last_id` (uuid) - Keyset cursor used to resume the job
+      - `error_message` (text)
+      - `created_at` / `updated_at` (timestamptz)
+
+  2. Indexes
+    - `(status, id)` on `volunteer_registrations` and `contact_requests` so each
+      chunk is a keyset scan over the rows that are allowed to transition
+
+  3. Security
+    - Enable RLS on `bulk_status_jobs`; only the backend connection may access it
+*/
+
+CREATE TABLE IF NOT EXISTS bulk_status_jobs (
+  id uuid PRIMARY KEY DEFAULT gen_random_uuid(),
+  workflow text NOT NULL,
+  target_status text NOT NULL,
+  from_status text,
+  created_after timestamptz,
+  created_before timestamptz,
+  ids uuid[],
+  state text NOT NULL DEFAULT 'running' CHECK (state IN ('running', 'completed', 'failed')),
+  total_count bigint NOT NULL DEFAULT 0,
+  processed_count bigint NOT NULL DEFAULT 0,
+  updated_count bigint NOT NULL DEFAULT 0,
+  last_id uuid,
+  error_message text,
+  created_at timestamptz DEFAULT now(),
+  updated_at timestamptz DEFAULT now()
+);
+
+ALTER TABLE bulk_status_jobs ENABLE ROW LEVEL SECURITY;
+
+CREATE INDEX IF NOT EXISTS idx_volunteer_registrations_status_id ON volunteer_registrations(status, id);
+CREATE INDEX IF NOT EXISTS idx_contact_requests_status_id ON contact_requests(status, id);
+CREATE INDEX IF NOT EXISTS idx_bulk_status_jobs_state ON bulk_status_jobs(state);
@@ -0,0 +1,15 @@
+/*
+  # Add Ownership and Heartbeat to Bulk Status Jobs
+
+  1. Changes
+    - Add `owner` column to `bulk_status_jobs` - Application instance currently running the job
+    - Add `heartbeat_at` column to `bulk_status_jobs` - Refreshed after every processed chunk
+
+  2. Notes
+    - A job is claimed with a conditional UPDATE, so only one instance runs it at a time
+    - A `running` job whose heartbeat is older than the configured timeout is considered
+      stalled and may be claimed again by another instance
+*/
+
+ALTER TABLE bulk_status_jobs ADD COLUMN IF NOT EXISTS owner text;
+ALTER TABLE bulk_status_jobs ADD COLUMN IF NOT EXISTS heartbeat_at timestamptz;